@@ -15,12 +15,27 @@ public final class EncryptionService {
     private static final String ALGORITHM = "AES/GCM/NoPadding";
     private static final int IV_LENGTH_BYTES = 12;
     private static final int TAG_LENGTH_BIT = 128;
-    private final SecureRandom secureRandom = new SecureRandom();
+    private static final String RANDOM_ALGORITHM = "DRBG";
+    // IVs are drawn from one DRBG per processor, picked by thread. Each DRBG keeps its own state and lock,
+    // unlike the default NativePRNG on Linux whose instances all share one global lock.
+    // Striping (instead of a ThreadLocal) keeps the number of instances bounded with virtual threads.
+    private final SecureRandom[] secureRandoms;
+
+    public EncryptionService() {
+        this.secureRandoms = new SecureRandom[Runtime.getRuntime().availableProcessors()];
+        try {
+            for (int i = 0; i < secureRandoms.length; i++) {
+                secureRandoms[i] = SecureRandom.getInstance(RANDOM_ALGORITHM);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new CryptoException("Failed to create " + RANDOM_ALGORITHM + " SecureRandom", e);
+        }
+    }
 
     public String encrypt(String plaintext, SecretKey key) {
         try {
             byte[] iv = new byte[IV_LENGTH_BYTES];
-            secureRandom.nextBytes(iv);
+            secureRandom().nextBytes(iv);
             Cipher cipher = Cipher.getInstance(ALGORITHM);
             GCMParameterSpec parameterSpec = new GCMParameterSpec(TAG_LENGTH_BIT, iv);
             cipher.init(Cipher.ENCRYPT_MODE, key, parameterSpec);
@@ -58,5 +73,7 @@ public final class EncryptionService {
         }
     }
 
-
-}
\ No newline at end of file
+    private SecureRandom secureRandom() {
+        return secureRandoms[(int) (Thread.currentThread().getId() % secureRandoms.length)];
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.mastondonte.lib.masking.logging;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Lock-free, fixed-size, direct-mapped cache: each key hashes to a single slot and a newer entry
+ * replaces whatever occupied it. Reads never block and memory is bounded by the slot count.
+ */
+final class BoundedCache<K, V> {
+    private final AtomicReferenceArray<Entry<K, V>> slots;
+    private final int mask;
+
+    BoundedCache(int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    V get(K key, Function<? super K, ? extends V> loader) {
+        V value = getIfPresent(key);
+        if (value == null) {
+            value = loader.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    V getIfPresent(K key) {
+        Entry<K, V> entry = slots.get(indexOf(key));
+        return (entry != null && entry.key().equals(key)) ? entry.value() : null;
+    }
+
+    void put(K key, V value) {
+        slots.set(indexOf(key), new Entry<>(key, value));
+    }
+
+    private int indexOf(K key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private record Entry<K, V>(K key, V value) {}
+}
@@ -0,0 +1,148 @@
+package br.com.mastondonte.lib.masking.logging;
+
+import br.com.mastondonte.lib.masking.masking.MaskingEngine;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * IThrowableProxy that masks the message of the throwable and of its whole cause/suppressed chain.
+ * Stack frames are shared with the original proxy.
+ */
+final class MaskedThrowableProxy implements IThrowableProxy {
+    private static final int MAX_CACHED_MESSAGE_LENGTH = 4096;
+
+    // Keyed by a SHA-256 digest so raw (unmasked) messages are never retained on the heap;
+    // longer messages are not cached, which bounds the memory to slots * MAX_CACHED_MESSAGE_LENGTH
+    private static final BoundedCache<ByteBuffer, String> messageCache = new BoundedCache<>(1024);
+    // digest() resets the instance, so each thread reuses its own instead of looking up the provider per message
+    private static final ThreadLocal<MessageDigest> sha256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by the Java platform", e);
+        }
+    });
+
+    private final String className;
+    private final StackTraceElementProxy[] stackTraceElementProxyArray;
+    private final int commonFrames;
+    private final boolean cyclic;
+    private final String maskedMessage;
+    private final IThrowableProxy cause;
+    private final IThrowableProxy[] suppressed;
+    private TraceKey traceKey;
+
+    private MaskedThrowableProxy(IThrowableProxy original) {
+        this.className = original.getClassName();
+        this.stackTraceElementProxyArray = original.getStackTraceElementProxyArray();
+        this.commonFrames = original.getCommonFrames();
+        this.cyclic = original.isCyclic();
+        this.maskedMessage = maskMessage(original.getMessage());
+        this.cause = wrap(original.getCause());
+        IThrowableProxy[] originalSuppressed = original.getSuppressed();
+        if (originalSuppressed != null) {
+            this.suppressed = new IThrowableProxy[originalSuppressed.length];
+            for (int i = 0; i < originalSuppressed.length; i++) {
+                this.suppressed[i] = wrap(originalSuppressed[i]);
+            }
+        } else {
+            this.suppressed = null;
+        }
+    }
+
+    static IThrowableProxy wrap(IThrowableProxy original) {
+        if (original == null || original instanceof MaskedThrowableProxy) {
+            return original;
+        }
+        return new MaskedThrowableProxy(original);
+    }
+
+    /**
+     * Content-based key (class, masked message, frames, causes): two instances of an identical
+     * exception share it, so their rendered stack trace can be reused.
+     */
+    TraceKey traceKey() {
+        TraceKey key = traceKey;
+        if (key == null) {
+            TraceKey[] suppressedKeys = null;
+            if (suppressed != null) {
+                suppressedKeys = new TraceKey[suppressed.length];
+                for (int i = 0; i < suppressed.length; i++) {
+                    suppressedKeys[i] = ((MaskedThrowableProxy) suppressed[i]).traceKey();
+                }
+            }
+            TraceKey causeKey = cause == null ? null : ((MaskedThrowableProxy) cause).traceKey();
+            key = new TraceKey(className, maskedMessage, stackTraceElementProxyArray, commonFrames, causeKey, suppressedKeys);
+            traceKey = key;
+        }
+        return key;
+    }
+
+    private static String maskMessage(String message) {
+        if (message == null || !MaskingEngine.mayContainSensitiveData(message)) {
+            return message;
+        }
+        if (message.length() > MAX_CACHED_MESSAGE_LENGTH) {
+            return MaskingEngine.maskText(message);
+        }
+        return messageCache.get(digest(message), key -> MaskingEngine.maskText(message));
+    }
+
+    private static ByteBuffer digest(String message) {
+        return ByteBuffer.wrap(sha256.get().digest(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override public String getMessage() { return maskedMessage; }
+    @Override public IThrowableProxy getCause() { return cause; }
+    @Override public IThrowableProxy[] getSuppressed() { return suppressed; }
+    @Override public String getClassName() { return className; }
+    @Override public StackTraceElementProxy[] getStackTraceElementProxyArray() { return stackTraceElementProxyArray; }
+    @Override public int getCommonFrames() { return commonFrames; }
+    @Override public boolean isCyclic() { return cyclic; }
+
+    static final class TraceKey {
+        private final String className;
+        private final String maskedMessage;
+        private final StackTraceElementProxy[] frames;
+        private final int commonFrames;
+        private final TraceKey cause;
+        private final TraceKey[] suppressed;
+        private final int hash;
+
+        private TraceKey(String className, String maskedMessage, StackTraceElementProxy[] frames,
+                         int commonFrames, TraceKey cause, TraceKey[] suppressed) {
+            this.className = className;
+            this.maskedMessage = maskedMessage;
+            this.frames = frames;
+            this.commonFrames = commonFrames;
+            this.cause = cause;
+            this.suppressed = suppressed;
+            this.hash = Objects.hash(className, maskedMessage, Arrays.hashCode(frames), commonFrames, cause, Arrays.hashCode(suppressed));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TraceKey other)) return false;
+            return hash == other.hash
+                    && commonFrames == other.commonFrames
+                    && Objects.equals(className, other.className)
+                    && Objects.equals(maskedMessage, other.maskedMessage)
+                    && Arrays.equals(frames, other.frames)
+                    && Objects.equals(cause, other.cause)
+                    && Arrays.equals(suppressed, other.suppressed);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
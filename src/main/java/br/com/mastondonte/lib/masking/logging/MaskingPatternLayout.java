@@ -1,10 +1,15 @@
 package br.com.mastondonte.lib.masking.logging;
 
 import br.com.mastondonte.lib.masking.masking.MaskingEngine;
+import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.pattern.EnsureExceptionHandling;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.IThrowableProxy;
 import ch.qos.logback.classic.spi.LoggerContextVO;
+import ch.qos.logback.core.Context;
+import ch.qos.logback.core.pattern.Converter;
+import ch.qos.logback.core.pattern.ConverterUtil;
 import org.slf4j.Marker;
 
 import java.time.Instant;
@@ -17,6 +22,14 @@ import org.slf4j.helpers.MessageFormatter; // Importe a classe correta
 
 public class MaskingPatternLayout extends PatternLayout {
 
+    public MaskingPatternLayout() {
+        // Exception converters mascaram a mensagem e reutilizam o stack trace já renderizado
+        for (String key : List.of("ex", "exception", "throwable")) {
+            getInstanceConverterMap().put(key, MaskingThrowableProxyConverter.class.getName());
+        }
+        setPostCompileProcessor(new MaskingExceptionHandling());
+    }
+
     @Override
     public String doLayout(ILoggingEvent event) {
         // Envolve o evento original em nosso decorator para mascarar os argumentos
@@ -48,6 +61,22 @@ public class MaskingPatternLayout extends PatternLayout {
         });
     }
 
+    /**
+     * Igual ao EnsureExceptionHandling do logback, mas acrescenta o conversor com mascaramento
+     * quando o pattern não trata exceções.
+     */
+    private static class MaskingExceptionHandling extends EnsureExceptionHandling {
+        @Override
+        public void process(Context context, Converter<ILoggingEvent> head) {
+            if (head == null || chainHandlesThrowable(head)
+                    || (context instanceof LoggerContext loggerContext && loggerContext.isPackagingDataEnabled())) {
+                super.process(context, head);
+                return;
+            }
+            ConverterUtil.findTail(head).setNext(new MaskingThrowableProxyConverter());
+        }
+    }
+
     /**
      * Classe interna que implementa ILoggingEvent corretamente.
      */
@@ -55,9 +84,11 @@ public class MaskingPatternLayout extends PatternLayout {
         private final ILoggingEvent originalEvent;
         private final transient Object[] maskedArgumentArray;
         private transient String formattedMessage; // CAMPO ADICIONADO: Cache para a mensagem formatada
+        private final IThrowableProxy maskedThrowableProxy; // Criado uma única vez por evento
 
         public MaskedLoggingEvent(ILoggingEvent originalEvent) {
             this.originalEvent = originalEvent;
+            this.maskedThrowableProxy = MaskedThrowableProxy.wrap(originalEvent.getThrowableProxy());
             if (originalEvent.getArgumentArray() != null) {
                 Object[] originalArgs = originalEvent.getArgumentArray();
                 this.maskedArgumentArray = new Object[originalArgs.length];
@@ -94,7 +125,7 @@ public class MaskingPatternLayout extends PatternLayout {
         @Override public String getMessage() { return originalEvent.getMessage(); }
         @Override public String getLoggerName() { return originalEvent.getLoggerName(); }
         @Override public LoggerContextVO getLoggerContextVO() { return originalEvent.getLoggerContextVO(); }
-        @Override public IThrowableProxy getThrowableProxy() { return originalEvent.getThrowableProxy(); }
+        @Override public IThrowableProxy getThrowableProxy() { return maskedThrowableProxy; }
         @Override public StackTraceElement[] getCallerData() { return originalEvent.getCallerData(); }
         @Override public boolean hasCallerData() { return originalEvent.hasCallerData(); }
         @Override public Marker getMarker() { return originalEvent.getMarker(); }
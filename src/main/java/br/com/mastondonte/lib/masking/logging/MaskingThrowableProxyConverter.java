@@ -0,0 +1,43 @@
+package br.com.mastondonte.lib.masking.logging;
+
+import ch.qos.logback.classic.pattern.ThrowableProxyConverter;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+
+import java.util.List;
+
+/**
+ * %ex converter that masks exception messages and reuses the rendered stack trace of identical
+ * exceptions (same class, masked message, frames and causes), across events and appenders.
+ * Registered by MaskingPatternLayout for %ex, %exception and %throwable.
+ */
+public class MaskingThrowableProxyConverter extends ThrowableProxyConverter {
+    private static final int MAX_CACHED_TRACE_LENGTH = 64 * 1024;
+
+    // Shared by every converter instance; keys include the converter options, which change the output
+    private static final BoundedCache<RenderKey, String> renderedTraceCache = new BoundedCache<>(256);
+
+    private List<String> renderOptions;
+
+    @Override
+    public void start() {
+        super.start();
+        renderOptions = getOptionList() == null ? List.of() : List.copyOf(getOptionList());
+    }
+
+    @Override
+    protected String throwableProxyToString(IThrowableProxy tp) {
+        IThrowableProxy masked = MaskedThrowableProxy.wrap(tp);
+        RenderKey key = new RenderKey(getClass(), renderOptions, ((MaskedThrowableProxy) masked).traceKey());
+        String rendered = renderedTraceCache.getIfPresent(key);
+        if (rendered == null) {
+            rendered = super.throwableProxyToString(masked);
+            // Huge traces are rendered every time rather than pinned in the cache
+            if (rendered.length() <= MAX_CACHED_TRACE_LENGTH) {
+                renderedTraceCache.put(key, rendered);
+            }
+        }
+        return rendered;
+    }
+
+    private record RenderKey(Class<?> converter, List<String> options, MaskedThrowableProxy.TraceKey trace) {}
+}
@@ -10,4 +10,11 @@ import java.lang.annotation.Target;
 public @interface Mask {
     MaskingStrategy strategy() default MaskingStrategy.FULL;
     Class<? extends CustomMaskingStrategy> customStrategy() default None.class;
+    /**
+     * Maximum number of characters rendered for the masked value; longer values end with a
+     * summary of their length in characters, such as {@code ***...(1.3M chars)}. KEEP_LAST_4 still
+     * shows the last 4 characters after the summary. -1 uses the {@code masking.max.rendered.length}
+     * system property (default 1024) and 0 disables truncation.
+     */
+    int maxLength() default -1;
 }
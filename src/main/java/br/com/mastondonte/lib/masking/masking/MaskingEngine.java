@@ -1,13 +1,52 @@
 package br.com.mastondonte.lib.masking.masking;
 
 import java.lang.reflect.Field;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public final class MaskingEngine {
-    private static final Map<Class<? extends CustomMaskingStrategy>, CustomMaskingStrategy> strategyCache = new ConcurrentHashMap<>();
+    // Default for @Mask(maxLength = -1); 0 renders values in full
+    private static final int DEFAULT_MAX_RENDERED_LENGTH = Integer.getInteger("masking.max.rendered.length", 1024);
+    private static final String MASK_CHUNK = "*".repeat(256);
+
+    // ClassValue reads are lock-free, so neither cache is a contention point under heavy parallel logging
+    private static final ClassValue<FieldPlan[]> fieldPlanCache = new ClassValue<>() {
+        @Override
+        protected FieldPlan[] computeValue(Class<?> type) {
+            Field[] fields = type.getDeclaredFields();
+            FieldPlan[] plans = new FieldPlan[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                // setAccessible runs once per field here, never concurrently on the logging path
+                fields[i].setAccessible(true);
+                Mask mask = fields[i].getAnnotation(Mask.class);
+                int maxLength = (mask == null || mask.maxLength() < 0) ? DEFAULT_MAX_RENDERED_LENGTH : mask.maxLength();
+                plans[i] = new FieldPlan(fields[i], mask, maxLength);
+            }
+            return plans;
+        }
+    };
+    private static final ClassValue<CustomMaskingStrategy> strategyCache = new ClassValue<>() {
+        @Override
+        protected CustomMaskingStrategy computeValue(Class<?> type) {
+            try {
+                return (CustomMaskingStrategy) type.getDeclaredConstructor().newInstance();
+            } catch (Exception e) {
+                throw new MaskingException("Failed to instantiate custom strategy: " + type.getName(), e);
+            }
+        }
+    };
+
+    // Emails; cards in groups of 4 split by ' ' or '-'; CNPJ and CPF, formatted or not; any other run of 11+ digits.
+    // Digit lookarounds (instead of \b) catch numbers glued to letters or '_', e.g. "cpf_12345678901"
+    private static final Pattern SENSITIVE_TEXT_PATTERN = Pattern.compile(
+            "[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}"
+                    + "|(?<!\\d)(?:"
+                    + "\\d{4}(?:[ -]\\d{4}){3}"
+                    + "|\\d{2}\\.?\\d{3}\\.?\\d{3}/?\\d{4}-?\\d{2}"
+                    + "|\\d{3}\\.?\\d{3}\\.?\\d{3}-?\\d{2}"
+                    + "|\\d{11,}"
+                    + ")(?!\\d)");
 
     private MaskingEngine() {}
 
@@ -16,29 +55,117 @@ public final class MaskingEngine {
             return "null";
         }
         Class<?> clazz = data.getClass();
-        String fieldsRepresentation = Stream.of(clazz.getDeclaredFields())
-                .map(field -> formatField(field, data))
-                .collect(Collectors.joining(", "));
-        return clazz.getSimpleName() + "{" + fieldsRepresentation + "}";
+        StringBuilder out = new StringBuilder(64).append(clazz.getSimpleName()).append('{');
+        FieldPlan[] plans = fieldPlanCache.get(clazz);
+        for (int i = 0; i < plans.length; i++) {
+            if (i > 0) out.append(", ");
+            appendField(out, plans[i], data);
+        }
+        return out.append('}').toString();
+    }
+
+    /**
+     * Builds and caches the masking plan of type, instantiating its custom strategies, and fails
+     * on misconfigured @Mask fields instead of waiting for the first log line to hit them.
+     */
+    static void precompile(Class<?> type) {
+        for (FieldPlan plan : fieldPlanCache.get(type)) {
+            Mask maskAnnotation = plan.mask();
+            if (maskAnnotation == null) continue;
+            Class<?> fieldType = plan.field().getType();
+            if (!CharSequence.class.isAssignableFrom(fieldType) && !fieldType.isAssignableFrom(CharSequence.class)) {
+                throw new MaskingException("@Mask is only supported on String/CharSequence fields: "
+                        + type.getName() + "." + plan.field().getName());
+            }
+            if (maskAnnotation.strategy() == MaskingStrategy.CUSTOM) {
+                if (maskAnnotation.customStrategy() == None.class) {
+                    throw new IllegalArgumentException("MaskingStrategy.CUSTOM requires a valid customStrategy class: "
+                            + type.getName() + "." + plan.field().getName());
+                }
+                strategyCache.get(maskAnnotation.customStrategy());
+            }
+        }
+    }
+
+    /**
+     * Masks sensitive values found in free text, such as exception messages.
+     * Emails use the EMAIL strategy, 11/14-digit documents use CPF_CNPJ, 13 to 19-digit card
+     * numbers keep only their last 4 digits and any other run of 11+ digits is fully masked.
+     */
+    public static String maskText(String text) {
+        if (text == null || !mayContainSensitiveData(text)) {
+            return text;
+        }
+        Matcher matcher = SENSITIVE_TEXT_PATTERN.matcher(text);
+        StringBuilder result = null;
+        int last = 0;
+        while (matcher.find()) {
+            String found = matcher.group();
+            String masked = maskTextToken(found);
+            if (masked.equals(found)) continue;
+            if (result == null) result = new StringBuilder(text.length());
+            result.append(text, last, matcher.start()).append(masked);
+            last = matcher.end();
+        }
+        if (result == null) return text;
+        return result.append(text, last, text.length()).toString();
+    }
+
+    /**
+     * Cheap pre-check for maskText: text without any digit or '@' is always returned unchanged.
+     */
+    public static boolean mayContainSensitiveData(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '@' || (c >= '0' && c <= '9')) return true;
+        }
+        return false;
+    }
+
+    private static String maskTextToken(String token) {
+        if (token.indexOf('@') >= 0) {
+            return maskEmail(token);
+        }
+        int digits = 0;
+        for (int i = 0; i < token.length(); i++) {
+            if (Character.isDigit(token.charAt(i))) digits++;
+        }
+        if (digits == 11 || digits == 14) return maskCpfCnpj(token);
+        if (digits >= 13 && digits <= 19) return maskDigits(token, digits, 4);
+        return maskDigits(token, digits, 0);
+    }
+
+    private static String maskDigits(String value, int digits, int keepLast) {
+        StringBuilder masked = new StringBuilder(value.length());
+        int remaining = digits;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isDigit(c)) {
+                masked.append(remaining-- > keepLast ? '*' : c);
+            } else {
+                masked.append(c);
+            }
+        }
+        return masked.toString();
     }
 
-    private static String formatField(Field field, Object data) {
+    private static void appendField(StringBuilder out, FieldPlan plan, Object data) {
+        Field field = plan.field();
         try {
-            field.setAccessible(true);
-            String fieldName = field.getName();
+            out.append(field.getName()).append('=');
             Object value = field.get(data);
             if (value == null) {
-                return fieldName + "=null";
-            }
-            if (field.isAnnotationPresent(Mask.class) && value instanceof String) {
-                Mask maskAnnotation = field.getAnnotation(Mask.class);
-                String stringValue = (String) value;
+                out.append("null");
+            } else if (plan.mask() != null && value instanceof CharSequence sequence) {
+                Mask maskAnnotation = plan.mask();
                 if (maskAnnotation.strategy() == MaskingStrategy.CUSTOM) {
-                    return fieldName + "=" + applyCustomMask(stringValue, maskAnnotation.customStrategy());
+                    String masked = applyCustomMask(sequence.toString(), maskAnnotation.customStrategy());
+                    appendTruncated(out, masked, sequence.length(), plan.maxLength());
+                } else {
+                    appendMask(out, sequence, maskAnnotation.strategy(), plan.maxLength());
                 }
-                return fieldName + "=" + applyMask(stringValue, maskAnnotation.strategy());
             } else {
-                return fieldName + "=" + value.toString();
+                out.append(value);
             }
         } catch (IllegalAccessException e) {
             throw new MaskingException("Failed to access field: " + field.getName(), e);
@@ -49,26 +176,103 @@ public final class MaskingEngine {
         if (customStrategyClass == None.class) {
             throw new IllegalArgumentException("MaskingStrategy.CUSTOM requires a valid customStrategy class.");
         }
-        CustomMaskingStrategy strategy = strategyCache.computeIfAbsent(customStrategyClass, key -> {
-            try {
-                return key.getDeclaredConstructor().newInstance();
-            } catch (Exception e) {
-                throw new MaskingException("Failed to instantiate custom strategy: " + key.getName(), e);
+        return strategyCache.get(customStrategyClass).mask(value);
+    }
+
+    /**
+     * Writes the masked value straight into the output, never materializing a full-length masked copy.
+     * At most maxLength characters are rendered (0 means unlimited), followed by a length summary.
+     */
+    private static void appendMask(StringBuilder out, CharSequence value, MaskingStrategy strategy, int maxLength) {
+        int length = value.length();
+        switch (strategy) {
+            case FULL -> appendPartialMask(out, value, 0, length, maxLength);
+            case KEEP_LAST_4 -> {
+                if (length > 4 && maxLength > 0 && length - 4 > maxLength) {
+                    // The last 4 characters are the useful part of this strategy, so they survive truncation
+                    appendMaskChars(out, maxLength);
+                    appendLengthSummary(out, length);
+                    out.append(value, length - 4, length);
+                } else {
+                    appendPartialMask(out, value, 0, length <= 4 ? length : length - 4, 0);
+                }
+            }
+            case KEEP_FIRST_4 -> appendPartialMask(out, value, length <= 4 ? 0 : 4, length, maxLength);
+            case CPF_CNPJ -> {
+                String document = maskCpfCnpj(value);
+                if (document != null) {
+                    out.append(document);
+                } else {
+                    appendPartialMask(out, value, 0, length, maxLength);
+                }
+            }
+            case EMAIL -> {
+                int atIndex = indexOf(value, '@');
+                if (atIndex <= 1) {
+                    appendPartialMask(out, value, 0, length, maxLength);
+                } else if (atIndex <= 2) {
+                    appendPartialMask(out, value, 0, atIndex, maxLength);
+                } else {
+                    appendPartialMask(out, value, 1, atIndex - 1, maxLength);
+                }
             }
-        });
-        return strategy.mask(value);
-    }
-
-    private static String applyMask(String value, MaskingStrategy strategy) {
-        if (value == null || value.isEmpty()) return value;
-        return switch (strategy) {
-            case FULL -> "*".repeat(value.length());
-            case KEEP_LAST_4 -> (value.length() <= 4) ? "*".repeat(value.length()) : "*".repeat(value.length() - 4) + value.substring(value.length() - 4);
-            case KEEP_FIRST_4 -> (value.length() <= 4) ? "*".repeat(value.length()) : value.substring(0, 4) + "*".repeat(value.length() - 4);
-            case CPF_CNPJ -> maskCpfCnpj(value);
-            case EMAIL -> maskEmail(value);
             default -> throw new UnsupportedOperationException("Strategy not implemented: " + strategy);
-        };
+        }
+    }
+
+    /**
+     * Renders value with every character in [maskFrom, maskTo) replaced by '*', in chunks.
+     */
+    private static void appendPartialMask(StringBuilder out, CharSequence value, int maskFrom, int maskTo, int maxLength) {
+        int length = value.length();
+        int limit = (maxLength > 0 && length > maxLength) ? maxLength : length;
+        int visibleHeadEnd = Math.min(maskFrom, limit);
+        int maskEnd = Math.min(maskTo, limit);
+        out.append(value, 0, visibleHeadEnd);
+        appendMaskChars(out, maskEnd - visibleHeadEnd);
+        if (maskEnd < limit) {
+            out.append(value, maskEnd, limit);
+        }
+        if (limit < length) {
+            appendLengthSummary(out, length);
+        }
+    }
+
+    private static void appendMaskChars(StringBuilder out, int count) {
+        for (int i = 0; i < count; i += MASK_CHUNK.length()) {
+            out.append(MASK_CHUNK, 0, Math.min(MASK_CHUNK.length(), count - i));
+        }
+    }
+
+    private static void appendTruncated(StringBuilder out, String rendered, int originalLength, int maxLength) {
+        if (maxLength <= 0 || rendered.length() <= maxLength) {
+            out.append(rendered);
+            return;
+        }
+        out.append(rendered, 0, maxLength);
+        appendLengthSummary(out, originalLength);
+    }
+
+    /**
+     * Appends the original length as a character count (UTF-16 chars, not bytes), e.g. "...(1.3M chars)".
+     */
+    private static void appendLengthSummary(StringBuilder out, int length) {
+        out.append("...(");
+        if (length < 1_000) {
+            out.append(length);
+        } else if (length < 999_950) { // from 999,950 on, "%.1fK" would round up to "1000.0K"
+            out.append(String.format(Locale.ROOT, "%.1fK", length / 1_000.0));
+        } else {
+            out.append(String.format(Locale.ROOT, "%.1fM", length / 1_000_000.0));
+        }
+        out.append(" chars)");
+    }
+
+    private static int indexOf(CharSequence value, char c) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == c) return i;
+        }
+        return -1;
     }
 
     private static String maskEmail(String email) {
@@ -80,14 +284,30 @@ public final class MaskingEngine {
         return localPart.charAt(0) + "*".repeat(localPart.length() - 2) + localPart.charAt(localPart.length() - 1) + domain;
     }
 
-    private static String maskCpfCnpj(String doc) {
-        String digitsOnly = doc.replaceAll("\\D", "");
+    /**
+     * Returns the formatted CPF/CNPJ mask, or null when doc does not hold exactly 11 or 14 digits.
+     */
+    private static String maskCpfCnpj(CharSequence doc) {
+        StringBuilder digitsOnly = new StringBuilder(14);
+        for (int i = 0; i < doc.length(); i++) {
+            char c = doc.charAt(i);
+            if (Character.isDigit(c)) {
+                if (digitsOnly.length() == 14) return null;
+                digitsOnly.append(c);
+            }
+        }
         if (digitsOnly.length() == 11) return "***." + digitsOnly.substring(3, 6) + "." + digitsOnly.substring(6, 9) + "-**";
         if (digitsOnly.length() == 14) return "**." + digitsOnly.substring(2, 5) + "." + digitsOnly.substring(5, 8) + "/****-**";
-        return "*".repeat(doc.length());
+        return null;
     }
 
+    private record FieldPlan(Field field, Mask mask, int maxLength) {}
+
     public static class MaskingException extends RuntimeException {
+        public MaskingException(String message) {
+            super(message);
+        }
+
         public MaskingException(String message, Throwable cause) {
             super(message, cause);
         }
@@ -0,0 +1,185 @@
+package br.com.mastondonte.lib.masking.masking;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+/**
+ * Startup API that builds the masking plans of DTO classes ahead of time, so the first log line
+ * of each type does not pay for reflection and custom strategy instantiation, and misconfigured
+ * {@code @Mask} fields are reported at boot instead of on every log call.
+ *
+ * <pre>
+ * MaskingWarmup.preRegisterPackage("com.company.dto", true).throwIfFailed();
+ * </pre>
+ */
+public final class MaskingWarmup {
+
+    private MaskingWarmup() {}
+
+    public static WarmupReport preRegister(Collection<? extends Class<?>> classes) {
+        return preRegister(classes, false);
+    }
+
+    public static WarmupReport preRegister(Collection<? extends Class<?>> classes, boolean parallel) {
+        var stream = parallel ? classes.parallelStream() : classes.stream();
+        List<Outcome> outcomes = stream.map(type -> new Outcome(type, precompile(type))).toList();
+
+        List<Class<?>> registered = new ArrayList<>();
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        for (Outcome outcome : outcomes) {
+            if (outcome.failure() == null) {
+                registered.add(outcome.type());
+            } else {
+                failures.put(outcome.type().getName(), outcome.failure());
+            }
+        }
+        return new WarmupReport(registered, failures);
+    }
+
+    /**
+     * Pre-registers every concrete (non-abstract, non-enum) class found in packageName and its sub-packages,
+     * for both directory and jar classpath entries. Classes that cannot be loaded are reported as failures,
+     * and so is the package itself when nothing is found or a classpath entry cannot be scanned,
+     * so a misspelled package does not pass silently.
+     */
+    public static WarmupReport preRegisterPackage(String packageName, boolean parallel) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = MaskingWarmup.class.getClassLoader();
+        }
+        List<Class<?>> classes = new ArrayList<>();
+        Map<String, Throwable> loadFailures = new LinkedHashMap<>();
+        Collection<String> classNames = findClassNames(loader, packageName, loadFailures);
+        if (classNames.isEmpty() && !loadFailures.containsKey(packageName)) {
+            loadFailures.put(packageName, new MaskingEngine.MaskingException("No classes found in package: " + packageName));
+        }
+        for (String className : classNames) {
+            try {
+                Class<?> type = Class.forName(className, false, loader);
+                if (!type.isInterface() && !type.isEnum() && !Modifier.isAbstract(type.getModifiers())) {
+                    classes.add(type);
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                loadFailures.put(className, e);
+            }
+        }
+        WarmupReport report = preRegister(classes, parallel);
+        if (loadFailures.isEmpty()) {
+            return report;
+        }
+        Map<String, Throwable> failures = new LinkedHashMap<>(loadFailures);
+        failures.putAll(report.failures());
+        return new WarmupReport(report.registered(), failures);
+    }
+
+    private static Throwable precompile(Class<?> type) {
+        try {
+            MaskingEngine.precompile(type);
+            return null;
+        } catch (RuntimeException | LinkageError e) {
+            return e;
+        }
+    }
+
+    private static Collection<String> findClassNames(ClassLoader loader, String packageName, Map<String, Throwable> failures) {
+        String path = packageName.replace('.', '/');
+        Collection<String> classNames = new TreeSet<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(path);
+            if (!resources.hasMoreElements()) {
+                failures.put(packageName, new MaskingEngine.MaskingException(
+                        "No classpath resources found for package: " + packageName));
+            }
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                if ("file".equals(resource.getProtocol())) {
+                    scanDirectory(new File(resource.toURI()), packageName, classNames);
+                } else if ("jar".equals(resource.getProtocol())) {
+                    scanJar(((JarURLConnection) resource.openConnection()).getJarFile(), path, classNames);
+                } else {
+                    failures.put(packageName + " (" + resource + ")", new MaskingEngine.MaskingException(
+                            "Unsupported classpath resource protocol '" + resource.getProtocol() + "': " + resource));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan package: " + packageName, e);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Failed to scan package: " + packageName, e);
+        }
+        return classNames;
+    }
+
+    private static void scanDirectory(File directory, String packageName, Collection<String> classNames) {
+        File[] files = directory.listFiles();
+        if (files == null) return;
+        for (File file : files) {
+            if (file.isDirectory()) {
+                scanDirectory(file, packageName + "." + file.getName(), classNames);
+            } else {
+                addClassName(packageName + "." + file.getName(), classNames);
+            }
+        }
+    }
+
+    private static void scanJar(JarFile jar, String path, Collection<String> classNames) {
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            if (name.startsWith(path + "/")) {
+                addClassName(name.replace('/', '.'), classNames);
+            }
+        }
+    }
+
+    private static void addClassName(String fileName, Collection<String> classNames) {
+        if (!fileName.endsWith(".class")) return;
+        String className = fileName.substring(0, fileName.length() - ".class".length());
+        // Skips package-info/module-info and anonymous or local classes (Outer$1, Outer$1Local)
+        if (className.endsWith("-info") || className.matches(".*\\$\\d.*")) return;
+        classNames.add(className);
+    }
+
+    private record Outcome(Class<?> type, Throwable failure) {}
+
+    /**
+     * Outcome of a warm-up: classes whose plan is ready, and failures keyed by class name.
+     */
+    public record WarmupReport(List<Class<?>> registered, Map<String, Throwable> failures) {
+
+        public WarmupReport {
+            registered = List.copyOf(registered);
+            failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+        }
+
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+
+        public void throwIfFailed() {
+            if (isSuccessful()) return;
+            String summary = failures.entrySet().stream()
+                    .map(entry -> entry.getKey() + ": " + entry.getValue().getMessage())
+                    .collect(Collectors.joining("; "));
+            var exception = new MaskingEngine.MaskingException("Masking warm-up failed for "
+                    + failures.size() + " class(es): " + summary);
+            failures.values().forEach(exception::addSuppressed);
+            throw exception;
+        }
+    }
+}
@@ -9,6 +9,14 @@ import org.junit.jupiter.api.Test;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -74,4 +82,40 @@ class EncryptionServiceTest {
             encryptionService.decrypt(malformedCipherText, validKey);
         }, "Deveria lançar uma CryptoException para dados malformados.");
     }
+
+    @Test
+    @DisplayName("Deve criptografar em paralelo gerando IVs únicos e valores recuperáveis")
+    void shouldEncryptConcurrently_withUniqueIvsAndRoundTrip() throws Exception {
+        // Arrange
+        int threads = 16;
+        int perThread = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Set<String> ivs = ConcurrentHashMap.newKeySet();
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // Act
+        try {
+            for (int t = 0; t < threads; t++) {
+                String plaintext = "segredo-" + t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        String encrypted = encryptionService.encrypt(plaintext, validKey);
+                        ivs.add(encrypted.substring(0, 16)); // 12 bytes de IV = 16 caracteres Base64
+                        if (!plaintext.equals(encryptionService.decrypt(encrypted, validKey))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(60, TimeUnit.SECONDS), "Todo valor criptografado deveria ser recuperável.");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(threads * perThread, ivs.size(), "Cada criptografia deveria usar um IV diferente.");
+    }
 }
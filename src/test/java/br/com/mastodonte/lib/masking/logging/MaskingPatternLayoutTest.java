@@ -1,6 +1,7 @@
 package br.com.mastodonte.lib.masking.logging;
 
 import br.com.mastondonte.lib.masking.logging.MaskingPatternLayout;
+import br.com.mastondonte.lib.masking.logging.MaskingThrowableProxyConverter;
 import br.com.mastondonte.lib.masking.masking.Mask;
 import br.com.mastondonte.lib.masking.masking.MaskingStrategy;
 import ch.qos.logback.classic.Level;
@@ -91,4 +92,57 @@ class MaskingPatternLayoutTest {
         assertTrue(formattedMessage.contains(expectedPublicData), "O dado não sensível deveria estar visível.");
         assertFalse(formattedMessage.contains("sensitive.data@company.com"), "O email original não deveria aparecer no log.");
     }
+
+    @Test
+    @DisplayName("Deve mascarar a mensagem da exceção e de toda a cadeia de causas")
+    void shouldMaskExceptionMessageAndCauseChain() {
+        // Arrange
+        var exceptionLayout = new MaskingPatternLayout();
+        exceptionLayout.setContext(logger.getLoggerContext());
+        exceptionLayout.setPattern("%msg%n%ex");
+        exceptionLayout.start();
+        var cause = new IllegalStateException("Cartão 4111 1111 1111 1234 recusado");
+        var error = new IllegalArgumentException("CPF inválido: 12345678901, email joao.silva@company.com", cause);
+
+        // Act
+        logger.error("Falha na validação", error);
+        String formattedMessage = exceptionLayout.doLayout(listAppender.events.get(0));
+        exceptionLayout.stop();
+
+        // Assert
+        assertAll("Validação da exceção mascarada",
+                () -> assertTrue(formattedMessage.contains("CPF inválido: ***.456.789-**")),
+                () -> assertTrue(formattedMessage.contains("j********a@company.com")),
+                () -> assertTrue(formattedMessage.contains("Cartão **** **** **** 1234 recusado")),
+                () -> assertTrue(formattedMessage.contains("at br.com.mastodonte")),
+                () -> assertFalse(formattedMessage.contains("12345678901")),
+                () -> assertFalse(formattedMessage.contains("joao.silva@company.com")),
+                () -> assertFalse(formattedMessage.contains("4111 1111"))
+        );
+    }
+
+    private static IllegalArgumentException newValidationError() {
+        return new IllegalArgumentException("CPF inválido: 12345678901");
+    }
+
+    @Test
+    @DisplayName("Deve reutilizar o stack trace renderizado para exceções idênticas")
+    void shouldReuseRenderedStackTraceForIdenticalExceptions() {
+        // Arrange: duas instâncias distintas da mesma exceção, criadas no mesmo ponto do código
+        var converter = new MaskingThrowableProxyConverter();
+        converter.setContext(logger.getLoggerContext());
+        converter.start();
+        for (int i = 0; i < 2; i++) {
+            logger.error("Falha na validação", newValidationError());
+        }
+
+        // Act
+        String first = converter.convert(listAppender.events.get(0));
+        String second = converter.convert(listAppender.events.get(1));
+
+        // Assert
+        assertSame(first, second, "O stack trace de exceções idênticas deveria vir do cache.");
+        assertTrue(first.contains("CPF inválido: ***.456.789-**"));
+        assertFalse(first.contains("12345678901"));
+    }
 }
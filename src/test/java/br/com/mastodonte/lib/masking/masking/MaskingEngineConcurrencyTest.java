@@ -0,0 +1,100 @@
+package br.com.mastodonte.lib.masking.masking;
+
+import br.com.mastondonte.lib.masking.masking.CustomMaskingStrategy;
+import br.com.mastondonte.lib.masking.masking.Mask;
+import br.com.mastondonte.lib.masking.masking.MaskingEngine;
+import br.com.mastondonte.lib.masking.masking.MaskingStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("Testes de concorrência para o Motor de Mascaramento (MaskingEngine)")
+class MaskingEngineConcurrencyTest {
+
+    private static final int ITERATIONS_PER_TASK = 200;
+
+    public static class PrefixMask implements CustomMaskingStrategy {
+        public PrefixMask() {}
+        @Override
+        public String mask(String value) {
+            return "#" + value.length();
+        }
+    }
+
+    private record Payment(
+            @Mask(strategy = MaskingStrategy.KEEP_LAST_4) String card,
+            @Mask(strategy = MaskingStrategy.EMAIL) String email,
+            @Mask(strategy = MaskingStrategy.CUSTOM, customStrategy = PrefixMask.class) String token,
+            int amount
+    ) {}
+
+    private static final String EXPECTED = "Payment{card=************3456, email=j******e@example.com, token=#6, amount=10}";
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado com muitas threads de plataforma mascarando em paralelo")
+    void shouldMaskConsistentlyWithManyPlatformThreads() throws Exception {
+        // Arrange
+        int threads = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act & Assert
+        try {
+            runConcurrently(executor, threads);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve produzir o mesmo resultado com milhares de threads virtuais (Java 21+)")
+    void shouldMaskConsistentlyWithThousandsOfVirtualThreads() throws Exception {
+        // Arrange: threads virtuais só existem a partir do Java 21, o projeto compila com Java 17
+        assumeTrue(Runtime.version().feature() >= 21, "Threads virtuais exigem Java 21+");
+        ExecutorService executor = (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor")
+                .invoke(null);
+
+        // Act & Assert
+        try {
+            runConcurrently(executor, 5_000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void runConcurrently(ExecutorService executor, int tasks) throws Exception {
+        var payment = new Payment("1234567890123456", "john.doe@example.com", "abc123", 10);
+        var startGate = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            results.add(executor.submit(() -> {
+                startGate.await();
+                int mismatches = 0;
+                for (int i = 0; i < ITERATIONS_PER_TASK; i++) {
+                    if (!EXPECTED.equals(MaskingEngine.mask(payment))) {
+                        mismatches++;
+                    }
+                }
+                return mismatches;
+            }));
+        }
+        // Libera todas as tarefas ao mesmo tempo para maximizar a contenção
+        startGate.countDown();
+
+        int totalMismatches = 0;
+        for (Future<Integer> result : results) {
+            totalMismatches += result.get(60, TimeUnit.SECONDS);
+        }
+        assertEquals(0, totalMismatches, "Nenhuma thread deveria observar um resultado diferente do esperado.");
+    }
+}
@@ -54,6 +54,92 @@ class MaskingEngineTest {
         }
     }
 
+    @Nested
+    @DisplayName("Valores Grandes")
+    class LargeValues {
+
+        private record Document(
+                @Mask(strategy = MaskingStrategy.FULL) String content,
+                @Mask(strategy = MaskingStrategy.KEEP_FIRST_4, maxLength = 8) StringBuilder body,
+                @Mask(strategy = MaskingStrategy.FULL, maxLength = 0) String unlimited,
+                @Mask(strategy = MaskingStrategy.KEEP_LAST_4) String card
+        ) {}
+
+        private record Boundary(@Mask(strategy = MaskingStrategy.FULL, maxLength = 4) String content) {}
+
+        @Test
+        @DisplayName("Deve escolher a unidade do resumo após o arredondamento")
+        void shouldPickSummaryUnitAfterRounding() {
+            assertAll("Validação dos limites de unidade",
+                    () -> assertTrue(MaskingEngine.mask(new Boundary("a".repeat(999_949))).contains("...(999.9K chars)")),
+                    () -> assertTrue(MaskingEngine.mask(new Boundary("a".repeat(999_950))).contains("...(1.0M chars)")),
+                    () -> assertTrue(MaskingEngine.mask(new Boundary("a".repeat(999_999))).contains("...(1.0M chars)"))
+            );
+        }
+
+        @Test
+        @DisplayName("Deve truncar valores grandes e informar o tamanho original")
+        void shouldTruncateLargeValuesWithLengthSummary() {
+            // Arrange
+            String payload = "A".repeat(1_258_291); // ~1.3M caracteres
+            var data = new Document(payload, new StringBuilder("abcdefghijklmnop"), "x".repeat(2_000),
+                    "9".repeat(5_000) + "1234");
+
+            // Act
+            String result = MaskingEngine.mask(data);
+
+            // Assert
+            assertAll("Validação do truncamento",
+                    () -> assertTrue(result.contains("content=" + "*".repeat(1024) + "...(1.3M chars)")),
+                    () -> assertTrue(result.contains("body=abcd****...(16 chars)")),
+                    () -> assertTrue(result.contains("unlimited=" + "*".repeat(2_000) + ",")),
+                    () -> assertTrue(result.contains("card=" + "*".repeat(1024) + "...(5.0K chars)1234}")),
+                    () -> assertFalse(result.contains("9999")),
+                    () -> assertFalse(result.contains("AAAA"))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Mascaramento de Texto Livre")
+    class FreeText {
+
+        @Test
+        @DisplayName("Deve mascarar emails, documentos e cartões encontrados no texto")
+        void shouldMaskSensitiveValuesInText() {
+            // Act
+            String result = MaskingEngine.maskText(
+                    "user john.doe@example.com, cpf 123.456.789-01, cnpj 12345678901234, card 4111-1111-1111-1234");
+
+            // Assert
+            assertEquals("user j******e@example.com, cpf ***.456.789-**, cnpj **.345.678/****-**, card ****-****-****-1234", result);
+        }
+
+        @Test
+        @DisplayName("Não deve juntar números vizinhos nem deixar documentos colados a letras em claro")
+        void shouldMaskDocumentsNextToOtherNumbersOrLetters() {
+            assertAll("Validação de casos de borda",
+                    () -> assertEquals("CPF ***.456.789-** 3 tentativas", MaskingEngine.maskText("CPF 12345678901 3 tentativas")),
+                    () -> assertEquals("CPFs ***.456.789-** ***.654.321-**", MaskingEngine.maskText("CPFs 123.456.789-01 987.654.321-00")),
+                    () -> assertEquals("cpf***.456.789-**", MaskingEngine.maskText("cpf12345678901")),
+                    () -> assertEquals("cpf_***.456.789-**", MaskingEngine.maskText("cpf_12345678901")),
+                    () -> assertEquals("card ************1234", MaskingEngine.maskText("card 4111111111111234")),
+                    () -> assertEquals("id ************", MaskingEngine.maskText("id 123456789012")),
+                    () -> assertEquals("raw ********************", MaskingEngine.maskText("raw 12345678901234567890"))
+            );
+        }
+
+        @Test
+        @DisplayName("Deve devolver o mesmo texto quando não houver dados sensíveis")
+        void shouldReturnSameTextWhenNothingSensitive() {
+            // Arrange
+            String text = "Timeout after 30000 ms on order 123456";
+
+            // Act & Assert
+            assertSame(text, MaskingEngine.maskText(text));
+        }
+    }
+
     @Nested
     @DisplayName("Estratégia Customizada")
     class CustomStrategy {
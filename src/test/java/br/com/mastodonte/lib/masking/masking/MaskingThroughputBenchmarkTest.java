@@ -0,0 +1,128 @@
+package br.com.mastodonte.lib.masking.masking;
+
+import br.com.mastondonte.lib.masking.crypto.EncryptionService;
+import br.com.mastondonte.lib.masking.masking.Mask;
+import br.com.mastondonte.lib.masking.masking.MaskingEngine;
+import br.com.mastondonte.lib.masking.masking.MaskingStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Throughput sweep of MaskingEngine.mask from 1 to N platform threads and, on Java 21+, virtual threads,
+ * plus an EncryptionService.encrypt sweep to observe contention on IV generation.
+ * Excluded from the default build; run with: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark de throughput do Motor de Mascaramento (MaskingEngine)")
+class MaskingThroughputBenchmarkTest {
+
+    private static final long WARMUP_MILLIS = 1_000;
+    private static final long MEASURE_MILLIS = 2_000;
+
+    private record Customer(
+            @Mask(strategy = MaskingStrategy.CPF_CNPJ) String cpf,
+            @Mask(strategy = MaskingStrategy.EMAIL) String email,
+            @Mask(strategy = MaskingStrategy.KEEP_LAST_4) String phone,
+            String name
+    ) {}
+
+    private static final Customer CUSTOMER = new Customer("12345678901", "john.doe@example.com", "11987654321", "John");
+
+    @Test
+    @DisplayName("Varredura de 1 a N threads de plataforma")
+    void platformThreadSweep() throws Exception {
+        int maxThreads = Runtime.getRuntime().availableProcessors() * 2;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                report("platform", threads, measure(executor, threads, () -> MaskingEngine.mask(CUSTOMER)));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Varredura de 1 a N threads de plataforma criptografando (EncryptionService)")
+    void encryptionPlatformThreadSweep() throws Exception {
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(256);
+        SecretKey key = keyGenerator.generateKey();
+        EncryptionService encryptionService = new EncryptionService();
+        int maxThreads = Runtime.getRuntime().availableProcessors() * 2;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                report("encrypt", threads, measure(executor, threads, () -> encryptionService.encrypt("4111111111111234", key)));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Varredura de 1 a N threads virtuais (Java 21+)")
+    void virtualThreadSweep() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "Threads virtuais exigem Java 21+");
+        for (int threads = 1; threads <= 4_096; threads *= 4) {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            try {
+                report("virtual", threads, measure(executor, threads, () -> MaskingEngine.mask(CUSTOMER)));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static long measure(ExecutorService executor, int threads, Supplier<String> operation) throws Exception {
+        run(executor, threads, WARMUP_MILLIS, operation);
+        return run(executor, threads, MEASURE_MILLIS, operation);
+    }
+
+    private static long run(ExecutorService executor, int threads, long millis, Supplier<String> operation) throws Exception {
+        var startGate = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                startGate.await();
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+                long operations = 0;
+                while (System.nanoTime() < deadline) {
+                    if (operation.get().isEmpty()) {
+                        throw new IllegalStateException("Unexpected empty result");
+                    }
+                    operations++;
+                }
+                return operations;
+            }));
+        }
+        startGate.countDown();
+        long total = 0;
+        for (Future<Long> result : results) {
+            total += result.get(millis * 10, TimeUnit.MILLISECONDS);
+        }
+        return total;
+    }
+
+    private static void report(String kind, int threads, long operations) {
+        assertTrue(operations > 0);
+        System.out.printf("%-8s threads=%-5d ops/s=%,d%n", kind, threads, operations * 1_000 / MEASURE_MILLIS);
+    }
+}
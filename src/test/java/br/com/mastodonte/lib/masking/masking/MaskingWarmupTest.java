@@ -0,0 +1,127 @@
+package br.com.mastodonte.lib.masking.masking;
+
+import br.com.mastodonte.lib.masking.masking.fixtures.WarmupFixtures;
+import br.com.mastondonte.lib.masking.masking.CustomMaskingStrategy;
+import br.com.mastondonte.lib.masking.masking.Mask;
+import br.com.mastondonte.lib.masking.masking.MaskingEngine;
+import br.com.mastondonte.lib.masking.masking.MaskingStrategy;
+import br.com.mastondonte.lib.masking.masking.MaskingWarmup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes para o pré-registro de classes (MaskingWarmup)")
+class MaskingWarmupTest {
+
+    public static class UpperMask implements CustomMaskingStrategy {
+        public UpperMask() {}
+        @Override
+        public String mask(String value) {
+            return value.toUpperCase();
+        }
+    }
+
+    public static class NoDefaultConstructorMask implements CustomMaskingStrategy {
+        public NoDefaultConstructorMask(String prefix) {}
+        @Override
+        public String mask(String value) {
+            return "masked";
+        }
+    }
+
+    private record ValidData(
+            @Mask(strategy = MaskingStrategy.CUSTOM, customStrategy = UpperMask.class) String code,
+            @Mask(strategy = MaskingStrategy.KEEP_LAST_4) CharSequence card
+    ) {}
+
+    private record MissingCustomStrategy(@Mask(strategy = MaskingStrategy.CUSTOM) String field) {}
+
+    private record UninstantiableStrategy(
+            @Mask(strategy = MaskingStrategy.CUSTOM, customStrategy = NoDefaultConstructorMask.class) String field
+    ) {}
+
+    private record MaskOnNumber(@Mask int pin) {}
+
+    @Test
+    @DisplayName("Deve registrar classes válidas e reportar as inválidas")
+    void shouldRegisterValidClassesAndReportInvalidOnes() {
+        // Act
+        var report = MaskingWarmup.preRegister(List.of(
+                ValidData.class, MissingCustomStrategy.class, UninstantiableStrategy.class, MaskOnNumber.class), true);
+
+        // Assert
+        assertAll("Validação do relatório",
+                () -> assertEquals(List.of(ValidData.class), report.registered()),
+                () -> assertFalse(report.isSuccessful()),
+                () -> assertInstanceOf(IllegalArgumentException.class, report.failures().get(MissingCustomStrategy.class.getName())),
+                () -> assertInstanceOf(MaskingEngine.MaskingException.class, report.failures().get(UninstantiableStrategy.class.getName())),
+                () -> assertInstanceOf(MaskingEngine.MaskingException.class, report.failures().get(MaskOnNumber.class.getName())),
+                () -> assertEquals("ValidData{code=ABC, card=****5678}", MaskingEngine.mask(new ValidData("abc", "12345678")))
+        );
+    }
+
+    @Test
+    @DisplayName("Deve lançar MaskingException na inicialização quando houver falhas")
+    void shouldThrowAtStartupWhenValidationFails() {
+        // Arrange
+        var report = MaskingWarmup.preRegister(List.of(MissingCustomStrategy.class));
+
+        // Act & Assert
+        var exception = assertThrows(MaskingEngine.MaskingException.class, report::throwIfFailed);
+        assertTrue(exception.getMessage().contains(MissingCustomStrategy.class.getName()));
+        assertEquals(1, exception.getSuppressed().length);
+    }
+
+    @Test
+    @DisplayName("Deve pré-registrar todas as classes encontradas na varredura de pacote")
+    void shouldPreRegisterClassesFromPackageScan() {
+        // Act
+        var report = MaskingWarmup.preRegisterPackage(WarmupFixtures.class.getPackageName(), false);
+
+        // Assert
+        assertTrue(report.registered().contains(WarmupFixtures.ValidDto.class));
+        assertTrue(report.registered().contains(WarmupFixtures.class));
+        assertFalse(report.registered().contains(WarmupFixtures.AbstractDto.class));
+        assertFalse(report.registered().contains(WarmupFixtures.Status.class));
+        assertEquals(1, report.failures().size());
+        assertTrue(report.failures().containsKey(WarmupFixtures.CustomWithoutStrategyDto.class.getName()));
+    }
+
+    @Test
+    @DisplayName("Deve reportar falha quando o pacote não existir ou não tiver classes")
+    void shouldReportFailureForMissingPackage() {
+        // Act
+        var report = MaskingWarmup.preRegisterPackage("com.typo.dto", true);
+
+        // Assert
+        assertFalse(report.isSuccessful());
+        assertTrue(report.failures().containsKey("com.typo.dto"));
+        assertThrows(MaskingEngine.MaskingException.class, report::throwIfFailed);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar listas tipadas e não refletir alterações posteriores no relatório")
+    void shouldAcceptTypedListsAndCopyReportCollections() {
+        // Arrange
+        List<Class<? extends Record>> classes = new ArrayList<>(List.of(ValidData.class, MissingCustomStrategy.class));
+        var report = MaskingWarmup.preRegister(classes);
+        List<Class<?>> registered = new ArrayList<>(List.of(ValidData.class));
+        Map<String, Throwable> failures = new LinkedHashMap<>(report.failures());
+        var copied = new MaskingWarmup.WarmupReport(registered, failures);
+
+        // Act
+        registered.clear();
+        failures.clear();
+
+        // Assert
+        assertEquals(List.of(ValidData.class), report.registered());
+        assertEquals(List.of(ValidData.class), copied.registered());
+        assertEquals(1, copied.failures().size());
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.mastodonte.lib.masking.masking.fixtures;
+
+import br.com.mastondonte.lib.masking.masking.Mask;
+import br.com.mastondonte.lib.masking.masking.MaskingStrategy;
+
+/**
+ * DTOs usados pelo teste de varredura de pacote do MaskingWarmup.
+ */
+public final class WarmupFixtures {
+
+    private WarmupFixtures() {}
+
+    public record ValidDto(
+            @Mask(strategy = MaskingStrategy.EMAIL) String email,
+            String name
+    ) {}
+
+    public abstract static class AbstractDto {}
+
+    public enum Status { ACTIVE }
+
+    public record CustomWithoutStrategyDto(
+            @Mask(strategy = MaskingStrategy.CUSTOM) String field
+    ) {}
+}